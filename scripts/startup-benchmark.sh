@@ -0,0 +1,125 @@
+#!/usr/bin/env bash
+#
+# Compares startup time and resident memory of the default build against the fast-startup build
+# (AOT processing, 'prod' profile, no springdoc) running with an AppCDS archive.
+# Before measuring, checks that the fast-startup jar ships without springdoc, the libraries only springdoc uses
+# and devtools, refreshes cleanly with the AOT-generated bean definitions and serves the order API.
+#
+# Requires a JDK 17+, curl, a free port 8080 and the MySQL database configured in application.properties
+# (MYSQL_HOST). Usage: scripts/startup-benchmark.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+MVN="${MVN:-./mvnw}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup-benchmark"
+MAIN_CLASS="com.example.awesomepizza.AwesomePizzaApplication"
+
+cd "$ROOT"
+
+echo "Building default jar..."
+$MVN -q -B -DskipTests clean package
+mkdir -p "$WORK"
+cp target/AwesomePizza-*.jar "$WORK/default.jar"
+
+echo "Building fast-startup jar..."
+$MVN -q -B -DskipTests -P fast-startup package
+cp target/AwesomePizza-*.jar "$WORK/fast-startup.jar"
+
+# Starts the given command, waits for startup and checks the API answers as expected; "$1" is the log file.
+verify() {
+    local log="$1"
+    shift
+    : > "$log"
+    "$@" >> "$log" 2>&1 &
+    local pid=$!
+    until grep -q "Started AwesomePizzaApplication" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application failed to start, see $log" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+    local placed next docs
+    placed="$(curl -s -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' \
+        -d '{"pizzaType":"Margherita","toppings":["Cheese"]}' http://localhost:8080/api/orders)"
+    next="$(curl -s -o /dev/null -w '%{http_code}' http://localhost:8080/api/orders)"
+    docs="$(curl -s -o /dev/null -w '%{http_code}' http://localhost:8080/v3/api-docs)"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    if [[ "$placed" != 201 || "$next" != 200 || "$docs" != 404 ]]; then
+        echo "Unexpected responses: place=$placed next=$next api-docs=$docs, see $log" >&2
+        exit 1
+    fi
+}
+
+echo "Verifying fast-startup jar..."
+if jar tf "$WORK/fast-startup.jar" | grep "^BOOT-INF/lib/" \
+        | grep -iE "springdoc|webjars|swagger|commons-lang3|dataformat-yaml|devtools"; then
+    echo "fast-startup.jar still contains the libraries listed above" >&2
+    exit 1
+fi
+verify "$WORK/verify.log" java -Dspring.aot.enabled=true -jar "$WORK/fast-startup.jar" --spring.profiles.active=prod
+
+# AppCDS only archives classes loaded from plain jars on the class path, so run the fast-startup build exploded
+# with the application classes repackaged as a jar.
+mkdir -p "$WORK/exploded"
+(cd "$WORK/exploded" && jar -xf "$WORK/fast-startup.jar")
+jar -cf "$WORK/application.jar" -C "$WORK/exploded/BOOT-INF/classes" .
+CLASSPATH="$WORK/application.jar"
+for lib in "$WORK"/exploded/BOOT-INF/lib/*.jar; do
+    CLASSPATH="$CLASSPATH:$lib"
+done
+FAST_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=prod -cp "$CLASSPATH")
+
+echo "Training AppCDS archive..."
+java -XX:ArchiveClassesAtExit="$WORK/application.jsa" -Dspring.context.exit=onRefresh "${FAST_OPTS[@]}" "$MAIN_CLASS" \
+    > "$WORK/training.log" 2>&1
+
+# Starts the application, waits for the startup log line and prints "<startup seconds> <RSS KiB>".
+measure() {
+    local log="$WORK/run.log"
+    # Truncated before starting, so that the previous run's log cannot be read as this run's startup line.
+    : > "$log"
+    "$@" >> "$log" 2>&1 &
+    local pid=$!
+    # Waits for the closing parenthesis so that the startup line is complete before it is parsed.
+    until grep -q "process running for [0-9.]*)" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before startup, see $log" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    local seconds rss
+    seconds="$(grep -o "process running for [0-9.]*)" "$log" | tr -d ')' | awk '{print $4}')"
+    rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$seconds $rss"
+}
+
+report() {
+    local name="$1"
+    shift
+    local results=() result
+    for ((i = 0; i < RUNS; i++)); do
+        result="$(measure "$@")"
+        echo "$name: $result" >> "$WORK/measurements.txt"
+        if [[ ! "$result" =~ ^[0-9]+(\.[0-9]+)?\ [0-9]+$ ]]; then
+            echo "Unexpected measurement '$result' for $name, see $WORK/run.log" >&2
+            exit 1
+        fi
+        results+=("$result")
+    done
+    printf '%s\n' "${results[@]}" | awk -v name="$name" \
+        '{ time += $1; rss += $2 } END { printf "%-28s startup %.2fs  RSS %d MiB\n", name, time / NR, rss / NR / 1024 }'
+}
+
+rm -f "$WORK/measurements.txt"
+echo "Averages over $RUNS runs (each run in $WORK/measurements.txt):"
+report "default" java -jar "$WORK/default.jar"
+report "fast-startup" java -Dspring.aot.enabled=true -jar "$WORK/fast-startup.jar" --spring.profiles.active=prod
+report "fast-startup exploded" java "${FAST_OPTS[@]}" "$MAIN_CLASS"
+report "fast-startup + AppCDS" java -XX:SharedArchiveFile="$WORK/application.jsa" "${FAST_OPTS[@]}" "$MAIN_CLASS"
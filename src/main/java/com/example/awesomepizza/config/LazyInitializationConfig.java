@@ -0,0 +1,25 @@
+package com.example.awesomepizza.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits lazy bean initialization, enabled by the 'prod' profile, to the beans where deferring is safe.
+ * Database migrations still run at startup, so a node never serves requests against an outdated schema
+ * and a failing migration stops it before it joins the load balancer.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * Keeps the Flyway migration initializer eager when lazy initialization is enabled.
+     *
+     * @return the filter excluding {@link FlywayMigrationInitializer} from lazy initialization
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter flywayEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.awesomepizza.controller;
+
+import com.example.awesomepizza.response.DemandForecastResponse;
+import com.example.awesomepizza.service.DemandForecastService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing live demand counts to the kitchen, so that the pizzaiolo can see
+ * which pizza types and toppings are being ordered the most and prepare them in advance.
+ */
+@RestController
+@RequestMapping("/api")
+public class DemandForecastController {
+
+    private final DemandForecastService demandForecastService;
+
+    @Autowired
+    public DemandForecastController(DemandForecastService demandForecastService) {
+        this.demandForecastService = demandForecastService;
+    }
+
+    /**
+     * Retrieves the most ordered pizza types and toppings over the last minutes.
+     *
+     * @param windowMinutes The length of the window in minutes, 15 by default.
+     * @param limit         The maximum number of pizza types and of toppings returned, 10 by default.
+     * @return A {@link ResponseEntity} containing the {@link DemandForecastResponse} and HTTP status 200 (OK),
+     *         or HTTP status 400 (Bad Request) if the window or the limit is out of range.
+     */
+    @GetMapping("/demand")
+    public ResponseEntity<DemandForecastResponse> getDemandForecast(
+            @RequestParam(defaultValue = "15") int windowMinutes,
+            @RequestParam(defaultValue = "10") int limit) {
+        DemandForecastResponse forecast = demandForecastService.getForecast(windowMinutes, limit);
+        if (forecast != null) {
+            return ResponseEntity.ok(forecast);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -73,8 +73,9 @@ public class PizzaOrderController {
     }
 
     /**
-     * Retrieves the first order that has a status of 'pending'.
-     * This endpoint is typically used to fetch the next order in line that needs processing.
+     * Retrieves the first order that has a status of 'pending' and has not been handed out yet.
+     * This endpoint is typically used to fetch the next order in line that needs processing. Each order is
+     * handed to a single caller, until its status is updated or its kitchen fails to report back in time.
      *
      * @return A {@link ResponseEntity} containing the first pending {@link Order} and HTTP status 200 (OK) if found,
      *         or HTTP status 404 (Not Found) if there are no pending orders available.
@@ -0,0 +1,99 @@
+package com.example.awesomepizza.forecast;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate heavy hitters over a sliding time window, kept in fixed memory.
+ * Observations are assigned to one-minute buckets arranged in a ring, each backed by a
+ * {@link SpaceSavingSketch}; a bucket is recycled when its minute falls out of the ring.
+ * Queries merge the buckets of the requested window, so their cost depends only on the ring size
+ * and the sketch capacity, not on the number of observations. Merging charges an item missing from a full
+ * bucket with that bucket's {@link SpaceSavingSketch#untrackedCountBound()}, so the merged counts are never
+ * lower than the true ones.
+ * Instances are thread-safe.
+ */
+public class SlidingWindowHeavyHitters {
+
+    private final SpaceSavingSketch[] buckets;
+    private final long[] bucketMinutes;
+
+    /**
+     * Creates an empty structure.
+     *
+     * @param maxWindowMinutes the longest window, in minutes, that can be queried
+     * @param capacity         the number of items tracked in each one-minute bucket
+     */
+    public SlidingWindowHeavyHitters(int maxWindowMinutes, int capacity) {
+        if (maxWindowMinutes <= 0) {
+            throw new IllegalArgumentException("maxWindowMinutes must be positive");
+        }
+        this.buckets = new SpaceSavingSketch[maxWindowMinutes];
+        this.bucketMinutes = new long[maxWindowMinutes];
+        for (int i = 0; i < maxWindowMinutes; i++) {
+            buckets[i] = new SpaceSavingSketch(capacity);
+            bucketMinutes[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Records one occurrence of the given item at the given minute.
+     *
+     * @param item        the item observed
+     * @param epochMinute the minute of the observation, counted from the epoch
+     */
+    public synchronized void add(String item, long epochMinute) {
+        int index = (int) Math.floorMod(epochMinute, (long) buckets.length);
+        if (bucketMinutes[index] != epochMinute) {
+            buckets[index].clear();
+            bucketMinutes[index] = epochMinute;
+        }
+        buckets[index].add(item);
+    }
+
+    /**
+     * Returns the most frequent items observed in the last minutes, most frequent first.
+     *
+     * @param limit         the maximum number of items returned, at least 1
+     * @param windowMinutes the length of the window, including the current minute
+     * @param epochMinute   the current minute, counted from the epoch
+     * @return the items and their estimated counts, never lower than the true counts, sorted by descending count
+     * @throws IllegalArgumentException if the limit is not positive or the window is longer than the ring
+     */
+    public synchronized List<Map.Entry<String, Integer>> top(int limit, int windowMinutes, long epochMinute) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (windowMinutes <= 0 || windowMinutes > buckets.length) {
+            throw new IllegalArgumentException("windowMinutes must be between 1 and " + buckets.length);
+        }
+        // An item's estimate is the sum of the bounds of all full buckets, corrected by the bucket's own
+        // count wherever the item is tracked.
+        Map<String, Integer> merged = new HashMap<>();
+        int boundSum = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            long minute = bucketMinutes[i];
+            if (minute <= epochMinute && minute > epochMinute - windowMinutes) {
+                int bound = buckets[i].untrackedCountBound();
+                boundSum += bound;
+                buckets[i].forEach((item, count) -> merged.merge(item, count - bound, Integer::sum));
+            }
+        }
+        int missingCount = boundSum;
+        merged.replaceAll((item, count) -> count + missingCount);
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    /**
+     * Retrieves the longest window, in minutes, that can be queried.
+     *
+     * @return the maximum window length in minutes
+     */
+    public int getMaxWindowMinutes() {
+        return buckets.length;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.awesomepizza.forecast;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Space-Saving heavy-hitter counter holding at most a fixed number of items.
+ * When a new item arrives and the sketch is full, the item with the smallest count is replaced and the
+ * newcomer inherits that count, so the counts of frequent items are never underestimated and memory
+ * stays bounded regardless of how many distinct items are observed.
+ */
+public class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param capacity the maximum number of items tracked at the same time
+     */
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>((int) (capacity / 0.75f) + 1);
+    }
+
+    /**
+     * Records one occurrence of the given item.
+     *
+     * @param item the item observed
+     */
+    public void add(String item) {
+        Counter counter = counters.get(item);
+        if (counter == null) {
+            counter = new Counter();
+            if (counters.size() == capacity) {
+                String evicted = null;
+                int min = Integer.MAX_VALUE;
+                for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                    if (entry.getValue().count < min) {
+                        min = entry.getValue().count;
+                        evicted = entry.getKey();
+                    }
+                }
+                counters.remove(evicted);
+                counter.count = min;
+            }
+            counters.put(item, counter);
+        }
+        counter.count++;
+    }
+
+    /**
+     * Passes every tracked item and its (over-)estimated count to the given consumer.
+     *
+     * @param consumer the consumer receiving each item and its count
+     */
+    public void forEach(ObjIntConsumer<String> consumer) {
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            consumer.accept(entry.getKey(), entry.getValue().count);
+        }
+    }
+
+    /**
+     * Returns the largest count an item that is not tracked may have had: the smallest tracked count when
+     * the sketch is full, since any evicted item was counted at most that many times, or 0 otherwise.
+     * Adding it for missing items keeps the counts of merged sketches from being underestimated.
+     *
+     * @return the upper bound of the count of an untracked item
+     */
+    public int untrackedCountBound() {
+        if (counters.size() < capacity) {
+            return 0;
+        }
+        int min = Integer.MAX_VALUE;
+        for (Counter counter : counters.values()) {
+            min = Math.min(min, counter.count);
+        }
+        return min;
+    }
+
+    /**
+     * Forgets every tracked item, keeping the allocated capacity.
+     */
+    public void clear() {
+        counters.clear();
+    }
+
+    private static final class Counter {
+        private int count;
+    }
+}
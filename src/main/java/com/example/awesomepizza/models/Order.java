@@ -1,6 +1,8 @@
 package com.example.awesomepizza.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -38,6 +40,35 @@ public class Order {
     @Column(name = "status")
     private String status;
 
+    /**
+     * Identifier of the application node currently holding the lease on this order, or null when
+     * the order is not leased. A pending order is handed to a single kitchen by the node acquiring its lease,
+     * and to no other caller while the lease is live, so that several instances can serve the pizzaiolo
+     * without dispatching the same order twice.
+     * Internal to the coordination between nodes, so it is never exposed in the order API.
+     */
+    @JsonIgnore
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    /**
+     * Instant at which the current lease expires, according to the database clock. The owning node
+     * renews it periodically; once it is in the past the order can be claimed again.
+     * Not exposed in the order API.
+     */
+    @JsonIgnore
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * Instant at which the order was handed to a kitchen, according to the database clock. The owning node
+     * only renews the lease for a limited time after it, so an order whose kitchen never reports back is
+     * dispatched again. Not exposed in the order API.
+     */
+    @JsonIgnore
+    @Column(name = "lease_acquired_at")
+    private LocalDateTime leaseAcquiredAt;
+
     /**
      * Collection of {@link OrderTopping} entities associated with this order.
      * This represents a one-to-many relationship with the 'order_toppings' table, allowing
@@ -103,6 +134,60 @@ public class Order {
         this.status = status;
     }
 
+    /**
+     * Retrieves the identifier of the node holding the lease on this order.
+     *
+     * @return the lease owner node identifier, or null if the order is not leased
+     */
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    /**
+     * Sets the identifier of the node holding the lease on this order.
+     *
+     * @param leaseOwner the lease owner node identifier, or null to release the lease
+     */
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    /**
+     * Retrieves the expiry of the current lease on this order.
+     *
+     * @return the lease expiry, or null if the order is not leased
+     */
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    /**
+     * Sets the expiry of the current lease on this order.
+     *
+     * @param leaseExpiresAt the new lease expiry, or null to release the lease
+     */
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    /**
+     * Retrieves the instant at which the current lease on this order was acquired.
+     *
+     * @return the lease acquisition time, or null if the order is not leased
+     */
+    public LocalDateTime getLeaseAcquiredAt() {
+        return leaseAcquiredAt;
+    }
+
+    /**
+     * Sets the instant at which the current lease on this order was acquired.
+     *
+     * @param leaseAcquiredAt the lease acquisition time, or null to release the lease
+     */
+    public void setLeaseAcquiredAt(LocalDateTime leaseAcquiredAt) {
+        this.leaseAcquiredAt = leaseAcquiredAt;
+    }
+
     /**
      * Retrieves the toppings associated with this order.
      *
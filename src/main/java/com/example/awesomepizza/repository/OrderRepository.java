@@ -3,8 +3,10 @@ package com.example.awesomepizza.repository;
 import com.example.awesomepizza.models.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -35,4 +37,56 @@ public interface OrderRepository extends JpaRepository<Order, Integer>, JpaSpeci
      * if no order matches the given identifier.
      */
     Optional<Order> findByOrderId(@Param("orderId") Integer orderId);
+
+    /**
+     * Finds the oldest 'pending' order that is free to be claimed, i.e. one that is not leased or whose lease
+     * has expired according to the database clock. Orders under a live lease are skipped whoever holds it,
+     * so an order already handed to a kitchen is not offered to another caller, even by the same node.
+     * The result is only a candidate: ownership is established by {@link #acquireLease}.
+     *
+     * @return An {@link Optional} containing the claimable order if available, otherwise an empty Optional.
+     */
+    @Query("SELECT order FROM Order order WHERE order.status = 'pending' AND (order.leaseOwner IS NULL "
+            + "OR order.leaseExpiresAt < CURRENT_TIMESTAMP) ORDER BY order.orderId ASC LIMIT 1")
+    Optional<Order> findFirstClaimablePending();
+
+    /**
+     * Atomically acquires the lease on a pending order and records when it was acquired.
+     * The update only succeeds if the order is still 'pending' and is not held under a lease that has not yet
+     * expired, so concurrent callers, on the same node or on different ones, cannot claim the same order.
+     * Expiry is computed and compared with the database clock, so nodes do not need synchronized clocks.
+     * The persistence context is cleared afterwards so that the order is reloaded with its new lease.
+     *
+     * @param orderId      The identifier of the order to lease.
+     * @param owner        The identifier of the node acquiring the lease.
+     * @param leaseSeconds The validity of the lease, in seconds from now.
+     * @return 1 if the lease was acquired, 0 if the order is already leased or no longer pending.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order order SET order.leaseOwner = :owner, order.leaseAcquiredAt = CURRENT_TIMESTAMP, "
+            + "order.leaseExpiresAt = CURRENT_TIMESTAMP + :leaseSeconds second "
+            + "WHERE order.orderId = :orderId AND order.status = 'pending' AND (order.leaseOwner IS NULL "
+            + "OR order.leaseExpiresAt < CURRENT_TIMESTAMP)")
+    int acquireLease(@Param("orderId") Integer orderId, @Param("owner") String owner,
+                     @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Extends the leases held by the given node on orders that are still 'pending' and were acquired
+     * less than the maximum hold time ago.
+     * Invoked periodically as a heartbeat; a node that stops calling it loses its orders once the leases expire,
+     * and an order whose kitchen has not reported back within the maximum hold time is left to expire as well.
+     *
+     * @param owner          The identifier of the node renewing its leases.
+     * @param leaseSeconds   The validity of the renewed leases, in seconds from now according to the database clock.
+     * @param maxHoldSeconds How long after acquiring a lease the node keeps renewing it, in seconds.
+     * @return The number of leases renewed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order order SET order.leaseExpiresAt = CURRENT_TIMESTAMP + :leaseSeconds second "
+            + "WHERE order.leaseOwner = :owner AND order.status = 'pending' "
+            + "AND order.leaseAcquiredAt > CURRENT_TIMESTAMP - :maxHoldSeconds second")
+    int renewLeases(@Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds,
+                    @Param("maxHoldSeconds") long maxHoldSeconds);
 }
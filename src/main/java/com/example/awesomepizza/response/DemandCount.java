@@ -0,0 +1,59 @@
+package com.example.awesomepizza.response;
+
+/**
+ * Data transfer object describing how often an item, such as a pizza type or a topping,
+ * has been ordered within a demand forecast window.
+ */
+public class DemandCount {
+
+    private String name;
+    private int count;
+
+    /**
+     * Creates a demand count for the given item.
+     *
+     * @param name  the name of the item
+     * @param count the estimated number of times the item was ordered
+     */
+    public DemandCount(String name, int count) {
+        this.name = name;
+        this.count = count;
+    }
+
+    /**
+     * Retrieves the name of the item.
+     *
+     * @return the name of the item as a String
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the item.
+     *
+     * @param name the name of the item
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the estimated number of times the item was ordered. The estimate may exceed
+     * the exact value but never falls below it.
+     *
+     * @return the estimated count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the estimated number of times the item was ordered.
+     *
+     * @param count the estimated count
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
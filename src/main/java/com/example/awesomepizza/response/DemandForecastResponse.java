@@ -0,0 +1,68 @@
+package com.example.awesomepizza.response;
+
+import java.util.List;
+
+/**
+ * Response data transfer object listing the pizza types and toppings most ordered over a recent window,
+ * used by the kitchen to decide what to prepare next.
+ */
+public class DemandForecastResponse {
+
+    private int windowMinutes;
+    private List<DemandCount> pizzaTypes;
+    private List<DemandCount> toppings;
+
+    /**
+     * Retrieves the length of the window the counts refer to.
+     *
+     * @return the window length in minutes
+     */
+    public int getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    /**
+     * Sets the length of the window the counts refer to.
+     *
+     * @param windowMinutes the window length in minutes
+     */
+    public void setWindowMinutes(int windowMinutes) {
+        this.windowMinutes = windowMinutes;
+    }
+
+    /**
+     * Retrieves the most ordered pizza types, most frequent first.
+     *
+     * @return a list of pizza type counts
+     */
+    public List<DemandCount> getPizzaTypes() {
+        return pizzaTypes;
+    }
+
+    /**
+     * Sets the most ordered pizza types.
+     *
+     * @param pizzaTypes a list of pizza type counts, most frequent first
+     */
+    public void setPizzaTypes(List<DemandCount> pizzaTypes) {
+        this.pizzaTypes = pizzaTypes;
+    }
+
+    /**
+     * Retrieves the most ordered toppings, most frequent first.
+     *
+     * @return a list of topping counts
+     */
+    public List<DemandCount> getToppings() {
+        return toppings;
+    }
+
+    /**
+     * Sets the most ordered toppings.
+     *
+     * @param toppings a list of topping counts, most frequent first
+     */
+    public void setToppings(List<DemandCount> toppings) {
+        this.toppings = toppings;
+    }
+}
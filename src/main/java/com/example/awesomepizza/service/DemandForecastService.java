@@ -0,0 +1,94 @@
+package com.example.awesomepizza.service;
+
+import com.example.awesomepizza.forecast.SlidingWindowHeavyHitters;
+import com.example.awesomepizza.response.DemandCount;
+import com.example.awesomepizza.response.DemandForecastResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service maintaining live demand counts of pizza types and toppings from the stream of placed orders.
+ * Counts are kept in fixed memory by {@link SlidingWindowHeavyHitters}, so the kitchen dashboard can be
+ * refreshed without aggregating the 'order_toppings' table on every read.
+ */
+@Service
+public class DemandForecastService {
+
+    private final SlidingWindowHeavyHitters pizzaTypes;
+    private final SlidingWindowHeavyHitters toppings;
+    private final int maxWindowMinutes;
+    private final Clock clock;
+
+    /**
+     * Constructs an instance of DemandForecastService.
+     *
+     * @param maxWindowMinutes Longest window, in minutes, that can be queried.
+     * @param capacity         Number of distinct items tracked per minute for each dimension.
+     */
+    @Autowired
+    public DemandForecastService(@Value("${awesomepizza.forecast.max-window-minutes:60}") int maxWindowMinutes,
+                                 @Value("${awesomepizza.forecast.capacity:64}") int capacity) {
+        this(maxWindowMinutes, capacity, Clock.systemUTC());
+    }
+
+    DemandForecastService(int maxWindowMinutes, int capacity, Clock clock) {
+        this.pizzaTypes = new SlidingWindowHeavyHitters(maxWindowMinutes, capacity);
+        this.toppings = new SlidingWindowHeavyHitters(maxWindowMinutes, capacity);
+        this.maxWindowMinutes = maxWindowMinutes;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a placed order in the demand counts.
+     *
+     * @param pizzaType The type of pizza ordered.
+     * @param toppings  The toppings chosen for the pizza.
+     */
+    public void recordOrder(String pizzaType, List<String> toppings) {
+        long minute = currentMinute();
+        if (pizzaType != null) {
+            this.pizzaTypes.add(pizzaType, minute);
+        }
+        for (String topping : toppings) {
+            this.toppings.add(topping, minute);
+        }
+    }
+
+    /**
+     * Retrieves the most ordered pizza types and toppings over the last minutes.
+     *
+     * @param windowMinutes The length of the window, between 1 and the configured maximum.
+     * @param limit         The maximum number of pizza types and of toppings returned, at least 1.
+     * @return The forecast with both rankings, most frequent first, or null if the window or the limit
+     *         is out of range.
+     */
+    public DemandForecastResponse getForecast(int windowMinutes, int limit) {
+        if (windowMinutes < 1 || windowMinutes > maxWindowMinutes || limit < 1) {
+            return null;
+        }
+        long minute = currentMinute();
+        DemandForecastResponse response = new DemandForecastResponse();
+        response.setWindowMinutes(windowMinutes);
+        response.setPizzaTypes(toDemandCounts(pizzaTypes.top(limit, windowMinutes, minute)));
+        response.setToppings(toDemandCounts(toppings.top(limit, windowMinutes, minute)));
+        return response;
+    }
+
+    private long currentMinute() {
+        return clock.millis() / 60_000L;
+    }
+
+    private static List<DemandCount> toDemandCounts(List<Map.Entry<String, Integer>> entries) {
+        List<DemandCount> counts = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Integer> entry : entries) {
+            counts.add(new DemandCount(entry.getKey(), entry.getValue()));
+        }
+        return counts;
+    }
+}
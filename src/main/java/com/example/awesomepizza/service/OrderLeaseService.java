@@ -0,0 +1,94 @@
+package com.example.awesomepizza.service;
+
+import com.example.awesomepizza.models.Order;
+import com.example.awesomepizza.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Service coordinating ownership of pending orders across several application nodes.
+ * Each node claims an order for the kitchen asking for work by acquiring a database-backed lease through a
+ * conditional update; an order under a live lease is never handed to another kitchen, whichever node it asks.
+ * The node keeps its leases alive with a periodic heartbeat while the kitchens work on the orders, up to a
+ * maximum hold time, and loses them automatically when it stops renewing, so that orders held by a dead node,
+ * or never reported back by their kitchen, are dispatched again.
+ * Lease expiry is always computed and compared with the database clock, so the nodes' own clocks
+ * do not need to be synchronized.
+ */
+@Service
+public class OrderLeaseService {
+
+    private final OrderRepository orderRepository;
+    private final String nodeId;
+    private final long leaseSeconds;
+    private final long maxHoldSeconds;
+
+    /**
+     * Constructs an instance of OrderLeaseService.
+     *
+     * @param orderRepository      Repository for accessing and manipulating Order entities.
+     * @param nodeId               Identifier of this application node, random unless configured.
+     * @param leaseDurationSeconds Validity of a lease, in seconds, if not renewed by the heartbeat.
+     * @param maxHoldSeconds       How long a kitchen may work on an order, in seconds, before the heartbeat
+     *                             stops renewing its lease and the order is dispatched again.
+     */
+    @Autowired
+    public OrderLeaseService(OrderRepository orderRepository,
+                             @Value("${awesomepizza.lease.node-id:${random.uuid}}") String nodeId,
+                             @Value("${awesomepizza.lease.duration-seconds:30}") long leaseDurationSeconds,
+                             @Value("${awesomepizza.lease.max-hold-seconds:1800}") long maxHoldSeconds) {
+        this.orderRepository = orderRepository;
+        this.nodeId = nodeId;
+        this.leaseSeconds = leaseDurationSeconds;
+        this.maxHoldSeconds = maxHoldSeconds;
+    }
+
+    /**
+     * Claims the oldest pending order that is not leased yet, or whose lease expired, by acquiring its lease.
+     * Every call hands out a different order: an order leased by this node is not returned again, so two
+     * kitchens asking the same node never get the same order. When another caller wins the race for a
+     * candidate, the next one is tried; every lost race removes a candidate, so the loop ends once an order
+     * is leased or none is left.
+     *
+     * @return The leased order, or null if no pending order can be claimed.
+     */
+    public Order claimNextPendingOrder() {
+        while (true) {
+            Optional<Order> candidate = orderRepository.findFirstClaimablePending();
+            if (candidate.isEmpty()) {
+                return null;
+            }
+            Integer orderId = candidate.get().getOrderId();
+            if (orderRepository.acquireLease(orderId, nodeId, leaseSeconds) == 1) {
+                Optional<Order> leased = orderRepository.findByOrderId(orderId);
+                if (leased.isPresent()) {
+                    return leased.get();
+                }
+            }
+        }
+    }
+
+    /**
+     * Heartbeat extending the leases held by this node on orders that are still pending and were handed out
+     * less than the maximum hold time ago.
+     * Runs at a fraction of the lease duration so that a live node does not lose the orders its kitchens are
+     * working on.
+     */
+    @Scheduled(fixedDelayString = "${awesomepizza.lease.heartbeat-interval-ms:10000}")
+    public void renewLeases() {
+        orderRepository.renewLeases(nodeId, leaseSeconds, maxHoldSeconds);
+    }
+
+    /**
+     * Retrieves the identifier of this application node, as recorded in the lease owner column.
+     *
+     * @return the node identifier
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -9,7 +9,8 @@ import com.example.awesomepizza.request.UpdateOrderStatusRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -22,22 +23,30 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderToppingRepository orderToppingRepository;
+    private final OrderLeaseService orderLeaseService;
+    private final DemandForecastService demandForecastService;
 
     /**
      * Constructs an instance of OrderService with necessary repository dependencies.
      *
      * @param orderRepository        Repository for accessing and manipulating Order entities.
      * @param orderToppingRepository Repository for accessing and manipulating OrderTopping entities.
+     * @param orderLeaseService      Service granting this node ownership of pending orders.
+     * @param demandForecastService  Service maintaining live demand counts from placed orders.
      */
     @Autowired
-    public OrderService(OrderRepository orderRepository, OrderToppingRepository orderToppingRepository) {
+    public OrderService(OrderRepository orderRepository, OrderToppingRepository orderToppingRepository,
+                        OrderLeaseService orderLeaseService, DemandForecastService demandForecastService) {
         this.orderRepository = orderRepository;
         this.orderToppingRepository = orderToppingRepository;
+        this.orderLeaseService = orderLeaseService;
+        this.demandForecastService = demandForecastService;
     }
 
     /**
      * Creates and saves a new pizza order based on provided order details.
-     * Initializes the order status to "pending" and processes the list of toppings.
+     * Initializes the order status to "pending", processes the list of toppings and records the order
+     * in the demand forecast.
      *
      * @param orderRequest The request containing details for the new order.
      * @return The newly created order with toppings saved and linked.
@@ -49,8 +58,9 @@ public class OrderService {
 
         order = orderRepository.save(order);
 
-        Set<OrderTopping> orderToppings = new HashSet<>();
-        for (String topping : orderRequest.getToppings()) {
+        List<String> toppings = orderRequest.getToppings();
+        Set<OrderTopping> orderToppings = new LinkedHashSet<>((int) (toppings.size() / 0.75f) + 1);
+        for (String topping : toppings) {
             OrderTopping orderTopping = new OrderTopping();
             orderTopping.setToppingName(topping);
             orderTopping.setOrder(order);
@@ -59,7 +69,9 @@ public class OrderService {
 
         orderToppingRepository.saveAll(orderToppings);
         order.setOrderToppings(orderToppings);
-        return orderRepository.save(order);
+        order = orderRepository.save(order);
+        demandForecastService.recordOrder(orderRequest.getPizzaType(), toppings);
+        return order;
     }
 
     /**
@@ -74,6 +86,7 @@ public class OrderService {
 
     /**
      * Updates the status of an existing order based on provided status information.
+     * Once the order leaves the "pending" state its lease is released, as it no longer needs to be dispatched.
      *
      * @param orderId                  The identifier of the order to update.
      * @param updateOrderStatusRequest The request containing the new status for the order.
@@ -83,6 +96,11 @@ public class OrderService {
         Order order = orderRepository.findByOrderId(orderId).orElse(null);
         if (order != null) {
             order.setStatus(updateOrderStatusRequest.getStatus());
+            if (!"pending".equals(order.getStatus())) {
+                order.setLeaseOwner(null);
+                order.setLeaseExpiresAt(null);
+                order.setLeaseAcquiredAt(null);
+            }
             orderRepository.save(order);
             return true;
         }
@@ -90,11 +108,13 @@ public class OrderService {
     }
 
     /**
-     * Retrieves the first order marked as "pending" in the system.
+     * Retrieves the first order marked as "pending" in the system that has not been handed out yet.
+     * The order is leased to this node, so neither this node nor any other instance will hand it to another
+     * kitchen while the lease is held.
      *
      * @return An optional Order if a pending one is found; otherwise, returns null.
      */
     public Order getFirstPendingOrder() {
-        return orderRepository.findFirstByStatusPending().orElse(null);
+        return orderLeaseService.claimNextPendingOrder();
     }
 }
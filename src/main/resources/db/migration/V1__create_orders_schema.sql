@@ -0,0 +1,23 @@
+-- Schema of the order API as generated by Hibernate (ddl-auto=update) before migrations were introduced.
+-- Databases created that way are baselined at this version and only receive the later migrations.
+CREATE TABLE orders
+(
+    order_id         INT          NOT NULL AUTO_INCREMENT,
+    pizza_type       VARCHAR(255),
+    status           VARCHAR(255),
+    PRIMARY KEY (order_id)
+);
+
+CREATE TABLE order_toppings
+(
+    order_topping_id INT          NOT NULL AUTO_INCREMENT,
+    topping_name     VARCHAR(255) NOT NULL,
+    order_id         INT          NOT NULL,
+    PRIMARY KEY (order_topping_id)
+);
+
+-- Declared before the foreign key so that both MySQL and H2 reuse it instead of creating their own.
+CREATE INDEX idx_order_toppings_order_id ON order_toppings (order_id);
+
+ALTER TABLE order_toppings
+    ADD CONSTRAINT fk_order_toppings_order FOREIGN KEY (order_id) REFERENCES orders (order_id) ON DELETE CASCADE;
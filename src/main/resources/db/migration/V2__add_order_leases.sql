@@ -0,0 +1,3 @@
+-- Lease columns used by OrderLeaseService to give a single node ownership of a pending order.
+ALTER TABLE orders ADD COLUMN lease_owner VARCHAR(255);
+ALTER TABLE orders ADD COLUMN lease_expires_at DATETIME(6);
@@ -0,0 +1,4 @@
+-- Serves the pending order lookups in OrderRepository (findFirstByStatusPending, findFirstClaimablePending):
+-- equality on status followed by order_id, so the oldest pending order is the first entry of the range
+-- and no sort is needed for ORDER BY order_id LIMIT 1.
+CREATE INDEX idx_orders_status_order_id ON orders (status, order_id);
@@ -0,0 +1,2 @@
+-- Time an order was handed to a kitchen, bounding how long OrderLeaseService keeps renewing its lease.
+ALTER TABLE orders ADD COLUMN lease_acquired_at DATETIME(6);
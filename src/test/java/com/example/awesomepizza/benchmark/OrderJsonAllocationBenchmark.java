@@ -0,0 +1,107 @@
+package com.example.awesomepizza.benchmark;
+
+import com.example.awesomepizza.models.Order;
+import com.example.awesomepizza.models.OrderTopping;
+import com.example.awesomepizza.request.OrderRequest;
+import com.example.awesomepizza.request.UpdateOrderStatusRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark measuring the time and allocations of (de)serializing the order API payloads with databinding,
+ * next to the cost of only tokenizing a request body with a streaming parser.
+ * Allocations per operation are reported by the {@link GCProfiler} as {@code gc.alloc.rate.norm}.
+ * <p>
+ * Creating the parser alone accounts for most of the bytes allocated per payload, so neither the Blackbird module
+ * nor hand-written (de)serializers lowered {@code gc.alloc.rate.norm} when measured here; the only saving came from
+ * writing fewer fields.
+ * <p>
+ * Not part of the test run; JMH forks its own JVM, so run it from a plain class path:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/test-classpath.txt) \
+ *     com.example.awesomepizza.benchmark.OrderJsonAllocationBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderJsonAllocationBenchmark {
+
+    private static final byte[] ORDER_REQUEST =
+            "{\"pizzaType\":\"Margherita\",\"toppings\":[\"Cheese\",\"Tomato\",\"Basil\"]}".getBytes();
+    private static final byte[] UPDATE_ORDER_STATUS_REQUEST = "{\"status\":\"ready\"}".getBytes();
+
+    private ObjectMapper objectMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        order = new Order();
+        order.setOrderId(1);
+        order.setPizzaType("Margherita");
+        order.setStatus("pending");
+        Set<OrderTopping> orderToppings = new LinkedHashSet<>();
+        int orderToppingId = 1;
+        for (String toppingName : List.of("Cheese", "Tomato", "Basil")) {
+            OrderTopping orderTopping = new OrderTopping();
+            orderTopping.setOrderToppingId(orderToppingId++);
+            orderTopping.setToppingName(toppingName);
+            orderTopping.setOrder(order);
+            orderToppings.add(orderTopping);
+        }
+        order.setOrderToppings(orderToppings);
+    }
+
+    @Benchmark
+    public OrderRequest readOrderRequest() throws IOException {
+        return objectMapper.readValue(ORDER_REQUEST, OrderRequest.class);
+    }
+
+    @Benchmark
+    public UpdateOrderStatusRequest readUpdateOrderStatusRequest() throws IOException {
+        return objectMapper.readValue(UPDATE_ORDER_STATUS_REQUEST, UpdateOrderStatusRequest.class);
+    }
+
+    /**
+     * Lower bound for reading a status update: walks the tokens of the body without binding them to an object.
+     */
+    @Benchmark
+    public void tokenizeUpdateOrderStatusRequest(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(UPDATE_ORDER_STATUS_REQUEST)) {
+            while (parser.nextToken() != null) {
+                blackhole.consume(parser.currentToken());
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] writeOrder() throws IOException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(OrderJsonAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.awesomepizza.controller;
+
+import com.example.awesomepizza.service.DemandForecastService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link DemandForecastController} validating the demand endpoint, its defaults and
+ * the rejection of out-of-range parameters.
+ */
+@WebMvcTest(DemandForecastController.class)
+@Import(DemandForecastService.class)
+class DemandForecastControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DemandForecastService demandForecastService;
+
+    /**
+     * Verifies recorded orders are returned for the default 15-minute window.
+     */
+    @Test
+    void getDemandForecast_DefaultWindow_ReturnsCounts() throws Exception {
+        demandForecastService.recordOrder("Margherita", List.of("Cheese"));
+
+        mockMvc.perform(get("/api/demand"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.windowMinutes").value(15))
+                .andExpect(jsonPath("$.pizzaTypes[0].name").value("Margherita"))
+                .andExpect(jsonPath("$.pizzaTypes[0].count").value(1))
+                .andExpect(jsonPath("$.toppings[0].name").value("Cheese"));
+    }
+
+    /**
+     * Verifies a non-positive limit is rejected with HTTP status 400 (Bad Request).
+     */
+    @Test
+    void getDemandForecast_NonPositiveLimit_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/demand").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/demand").param("limit", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Verifies windows outside 1 to 60 minutes are rejected with HTTP status 400 (Bad Request).
+     */
+    @Test
+    void getDemandForecast_WindowOutOfRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/demand").param("windowMinutes", "61"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/demand").param("windowMinutes", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
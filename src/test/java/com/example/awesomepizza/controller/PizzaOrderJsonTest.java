@@ -0,0 +1,84 @@
+package com.example.awesomepizza.controller;
+
+import com.example.awesomepizza.models.Order;
+import com.example.awesomepizza.models.OrderTopping;
+import com.example.awesomepizza.request.OrderRequest;
+import com.example.awesomepizza.request.UpdateOrderStatusRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the JSON payloads of {@link PizzaOrderController}, validating that the auto-configured ObjectMapper
+ * reads the request bodies and writes the {@link Order} response.
+ */
+@JsonTest
+class PizzaOrderJsonTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Verifies an {@link OrderRequest} payload is deserialized with its pizza type and toppings.
+     */
+    @Test
+    void readOrderRequest_ValidPayload_ReturnsRequest() throws Exception {
+        OrderRequest orderRequest = objectMapper.readValue(
+                "{\"pizzaType\":\"Margherita\",\"toppings\":[\"Cheese\",\"Tomato\"]}", OrderRequest.class);
+
+        assertEquals("Margherita", orderRequest.getPizzaType());
+        assertEquals(List.of("Cheese", "Tomato"), orderRequest.getToppings());
+    }
+
+    /**
+     * Verifies an {@link UpdateOrderStatusRequest} payload is deserialized with its status.
+     */
+    @Test
+    void readUpdateOrderStatusRequest_ValidPayload_ReturnsRequest() throws Exception {
+        UpdateOrderStatusRequest request = objectMapper.readValue("{\"status\":\"ready\"}", UpdateOrderStatusRequest.class);
+
+        assertEquals("ready", request.getStatus());
+    }
+
+    /**
+     * Verifies an {@link Order} with toppings is serialized without following the back reference
+     * from each {@link OrderTopping} to its order, and without the lease held on it by a node.
+     */
+    @Test
+    void writeOrder_WithToppings_OmitsBackReference() throws Exception {
+        Order order = new Order();
+        order.setOrderId(1);
+        order.setPizzaType("Margherita");
+        order.setStatus("pending");
+        order.setLeaseOwner("node-a");
+        order.setLeaseExpiresAt(LocalDateTime.of(2024, 5, 1, 19, 30));
+        Set<OrderTopping> orderToppings = new LinkedHashSet<>();
+        for (String toppingName : List.of("Cheese", "Tomato")) {
+            OrderTopping orderTopping = new OrderTopping();
+            orderTopping.setToppingName(toppingName);
+            orderTopping.setOrder(order);
+            orderToppings.add(orderTopping);
+        }
+        order.setOrderToppings(orderToppings);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(order));
+
+        assertEquals(1, json.get("orderId").asInt());
+        assertEquals("Margherita", json.get("pizzaType").asText());
+        assertEquals("pending", json.get("status").asText());
+        assertEquals(2, json.get("orderToppings").size());
+        assertEquals("Cheese", json.get("orderToppings").get(0).get("toppingName").asText());
+        assertFalse(json.get("orderToppings").get(0).has("order"));
+        assertFalse(json.has("leaseOwner"));
+        assertFalse(json.has("leaseExpiresAt"));
+    }
+}
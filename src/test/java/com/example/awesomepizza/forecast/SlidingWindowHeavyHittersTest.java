@@ -0,0 +1,120 @@
+package com.example.awesomepizza.forecast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SlidingWindowHeavyHitters} and the underlying {@link SpaceSavingSketch}, validating
+ * the ranking of frequent items, the expiry of old minutes and the bounded memory behaviour.
+ */
+class SlidingWindowHeavyHittersTest {
+
+    private static final long NOW = 28_000_000L;
+
+    /**
+     * Test the top method to ensure items are ranked by their count within the window.
+     */
+    @Test
+    void top_ItemsInWindow_ReturnsMostFrequentFirst() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 16);
+        add(heavyHitters, "Cheese", 5, NOW);
+        add(heavyHitters, "Tomato", 3, NOW - 1);
+        add(heavyHitters, "Basil", 1, NOW - 2);
+
+        List<Map.Entry<String, Integer>> top = heavyHitters.top(2, 15, NOW);
+
+        assertEquals(2, top.size());
+        assertEquals("Cheese", top.get(0).getKey());
+        assertEquals(5, top.get(0).getValue());
+        assertEquals("Tomato", top.get(1).getKey());
+        assertEquals(3, top.get(1).getValue());
+    }
+
+    /**
+     * Test the top method to ensure minutes older than the window are not counted,
+     * including buckets recycled by the ring.
+     */
+    @Test
+    void top_ItemsOutsideWindow_AreIgnored() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 16);
+        add(heavyHitters, "Pepperoni", 4, NOW - 20);
+        add(heavyHitters, "Mushrooms", 2, NOW - 60);
+        add(heavyHitters, "Cheese", 1, NOW);
+
+        assertEquals(List.of("Cheese"), keys(heavyHitters.top(10, 15, NOW)));
+        assertEquals(List.of("Pepperoni", "Cheese"), keys(heavyHitters.top(10, 60, NOW)));
+    }
+
+    /**
+     * Test the top method with more distinct items than the sketch capacity.
+     * Ensures a frequent item is still reported with a count not lower than its true count.
+     */
+    @Test
+    void top_MoreItemsThanCapacity_KeepsHeavyHitter() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 4);
+        for (int i = 0; i < 100; i++) {
+            heavyHitters.add("Cheese", NOW);
+            heavyHitters.add("Topping" + i, NOW);
+        }
+
+        List<Map.Entry<String, Integer>> top = heavyHitters.top(1, 15, NOW);
+
+        assertEquals("Cheese", top.get(0).getKey());
+        assertTrue(top.get(0).getValue() >= 100);
+    }
+
+    /**
+     * Test the top method with an item evicted from a full bucket and tracked in another one.
+     * Ensures the merged count of every item is not lower than its true count over the window.
+     */
+    @Test
+    void top_ItemEvictedInOneBucket_CountNotUnderestimated() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 2);
+        add(heavyHitters, "Cheese", 3, NOW - 1);
+        add(heavyHitters, "Tomato", 2, NOW - 1);
+        add(heavyHitters, "Basil", 1, NOW - 1);
+        add(heavyHitters, "Tomato", 1, NOW);
+
+        Map<String, Integer> counts = new java.util.HashMap<>();
+        heavyHitters.top(10, 15, NOW).forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+
+        assertTrue(counts.get("Tomato") >= 3, counts.toString());
+        assertTrue(counts.get("Cheese") >= 3, counts.toString());
+        assertTrue(counts.get("Basil") >= 1, counts.toString());
+    }
+
+    /**
+     * Test the top method to ensure windows longer than the ring are rejected.
+     */
+    @Test
+    void top_WindowLongerThanRing_ThrowsIllegalArgumentException() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> heavyHitters.top(10, 61, NOW));
+    }
+
+    /**
+     * Test the top method to ensure a limit that is not positive is rejected.
+     */
+    @Test
+    void top_NonPositiveLimit_ThrowsIllegalArgumentException() {
+        SlidingWindowHeavyHitters heavyHitters = new SlidingWindowHeavyHitters(60, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> heavyHitters.top(0, 15, NOW));
+        assertThrows(IllegalArgumentException.class, () -> heavyHitters.top(-1, 15, NOW));
+    }
+
+    private static void add(SlidingWindowHeavyHitters heavyHitters, String item, int times, long epochMinute) {
+        for (int i = 0; i < times; i++) {
+            heavyHitters.add(item, epochMinute);
+        }
+    }
+
+    private static List<String> keys(List<Map.Entry<String, Integer>> entries) {
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+}
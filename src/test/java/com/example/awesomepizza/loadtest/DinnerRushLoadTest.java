@@ -0,0 +1,378 @@
+package com.example.awesomepizza.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test replaying dinner-rush traffic against the REST API of {@code PizzaOrderController}.
+ * Customers place orders at a fixed rate and thousands of them poll their order status (open model),
+ * while a few kitchens repeatedly fetch the next pending order and mark it as ready (closed model).
+ * The traffic first runs for a warm-up period whose requests are not recorded, so that JIT compilation and
+ * connection pools do not skew the measured latencies. Throughput and latency percentiles are then logged per
+ * operation and written to {@code target/load-test/dinner-rush-report.txt}.
+ * <p>
+ * The run fails when the error rate of an operation exceeds its threshold, or when its p99 latency regressed
+ * beyond a tolerance over the baseline committed in {@code src/test/resources/loadtest/dinner-rush-baseline.properties},
+ * which also documents the reference setup it was measured on. Each run writes its own measurements in the same
+ * format to {@code target/load-test/dinner-rush-baseline.properties}; copy that file over the committed one to
+ * move the baseline, from a run on the reference setup. The latencies are only compared when the traffic mix
+ * matches the one of the baseline.
+ * <p>
+ * Excluded from the default build; run with {@code ./mvnw -P load-test test}. The traffic mix and thresholds
+ * are tuned through {@code loadtest.*} system properties, and the H2 stand-in can be swapped for a real
+ * MySQL server by overriding the {@code spring.datasource.*} properties.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"h2", "loadtest"})
+class DinnerRushLoadTest {
+
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 20);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final int ORDERS_PER_MINUTE = Integer.getInteger("loadtest.orders-per-minute", 500);
+    private static final int POLLERS = Integer.getInteger("loadtest.pollers", 2000);
+    private static final int POLL_INTERVAL_SECONDS = Integer.getInteger("loadtest.poll-interval-seconds", 20);
+    private static final int KITCHENS = Integer.getInteger("loadtest.kitchens", 4);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private static final double P99_TOLERANCE = Double.parseDouble(System.getProperty("loadtest.p99-tolerance", "0.5"));
+    private static final double P99_SLACK_MILLIS = Double.parseDouble(System.getProperty("loadtest.p99-slack-ms", "10"));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DinnerRushLoadTest.class);
+    private static final String BASELINE = "/loadtest/dinner-rush-baseline.properties";
+    private static final Path REPORT = Path.of("target", "load-test", "dinner-rush-report.txt");
+    private static final Path MEASURED_BASELINE = Path.of("target", "load-test", "dinner-rush-baseline.properties");
+
+    private static final String[] PIZZA_TYPES = {"Margherita", "Marinara", "Diavola", "Capricciosa", "Quattro Formaggi"};
+    private static final String[] TOPPINGS = {"Cheese", "Tomato", "Basil", "Salami", "Mushrooms", "Olives", "Ham"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> placedOrderIds = new CopyOnWriteArrayList<>();
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile Phase phase = new Phase();
+
+    @LocalServerPort
+    private int port;
+
+    private HttpClient httpClient;
+
+    @Test
+    void dinnerRush_MeetsBaselineAndErrorThresholds() throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(64);
+        httpClient = HttpClient.newBuilder().executor(clientExecutor).connectTimeout(Duration.ofSeconds(5)).build();
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        ExecutorService kitchens = Executors.newFixedThreadPool(KITCHENS);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        scheduler.scheduleAtFixedRate(() -> placeOrder(phase.place), 0, 60_000_000L / ORDERS_PER_MINUTE, TimeUnit.MICROSECONDS);
+        scheduler.scheduleAtFixedRate(() -> pollOrder(phase.poll), 0,
+                POLL_INTERVAL_SECONDS * 1_000_000L / POLLERS, TimeUnit.MICROSECONDS);
+        for (int i = 0; i < KITCHENS; i++) {
+            kitchens.submit(() -> runKitchen(running));
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(WARMUP_SECONDS));
+        Phase measured = new Phase();
+        phase = measured;
+        Thread.sleep(TimeUnit.SECONDS.toMillis(DURATION_SECONDS));
+        running.set(false);
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        kitchens.shutdown();
+        kitchens.awaitTermination(10, TimeUnit.SECONDS);
+        awaitInFlightRequests(measured);
+        clientExecutor.shutdown();
+        clientExecutor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Properties baseline = loadBaseline();
+        boolean sameMix = trafficMix().entrySet().stream()
+                .allMatch(entry -> entry.getValue().equals(baseline.getProperty(entry.getKey())));
+        List<String> lines = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "warm-up=%ds measured=%ds %s", WARMUP_SECONDS, DURATION_SECONDS, trafficMix()));
+        if (!sameMix) {
+            lines.add("Traffic mix differs from the baseline, latencies are not compared");
+        }
+        Properties measuredBaseline = new Properties();
+        measuredBaseline.putAll(trafficMix());
+        for (LatencyRecorder recorder : measured.recorders()) {
+            lines.add(recorder.report(DURATION_SECONDS));
+            recorder.checkErrorRate(violations);
+            if (sameMix) {
+                recorder.checkP99(Double.parseDouble(baseline.getProperty(recorder.operation + ".p99-ms")), violations);
+            }
+            measuredBaseline.setProperty(recorder.operation + ".p99-ms",
+                    String.format(Locale.ROOT, "%.1f", recorder.percentileMillis(99)));
+        }
+        lines.addAll(violations);
+        writeReport(lines, measuredBaseline);
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    /**
+     * Traffic parameters the latencies depend on; a baseline only applies to runs with the same values.
+     */
+    private static Map<String, String> trafficMix() {
+        Map<String, String> mix = new LinkedHashMap<>();
+        mix.put("orders-per-minute", String.valueOf(ORDERS_PER_MINUTE));
+        mix.put("pollers", String.valueOf(POLLERS));
+        mix.put("poll-interval-seconds", String.valueOf(POLL_INTERVAL_SECONDS));
+        mix.put("kitchens", String.valueOf(KITCHENS));
+        return mix;
+    }
+
+    private static Properties loadBaseline() throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream input = DinnerRushLoadTest.class.getResourceAsStream(BASELINE)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing load test baseline " + BASELINE);
+            }
+            baseline.load(input);
+        }
+        return baseline;
+    }
+
+    /**
+     * Waits for the asynchronous place and poll requests still in flight so that their outcome is recorded;
+     * requests that do not complete in time are counted as failures of their operation.
+     */
+    private void awaitInFlightRequests(Phase measured) throws Exception {
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("{} requests still in flight after the run", inFlight.size());
+        }
+        measured.place.recordAbandoned();
+        measured.poll.recordAbandoned();
+    }
+
+    private void writeReport(List<String> lines, Properties measuredBaseline) throws IOException {
+        lines.forEach(LOGGER::info);
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+        try (var output = Files.newBufferedWriter(MEASURED_BASELINE)) {
+            measuredBaseline.store(output, "Dinner-rush load test measurements");
+        }
+        LOGGER.info("Load test report written to {}", REPORT.toAbsolutePath());
+    }
+
+    private void track(LatencyRecorder recorder, CompletableFuture<?> request) {
+        recorder.started();
+        CompletableFuture<Void> tracked = request.handle((response, error) -> null);
+        inFlight.add(tracked);
+        tracked.whenComplete((ignored, error) -> inFlight.remove(tracked));
+    }
+
+    private void placeOrder(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> toppings = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            toppings.add(TOPPINGS[random.nextInt(TOPPINGS.length)]);
+        }
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(Map.of(
+                    "pizzaType", PIZZA_TYPES[random.nextInt(PIZZA_TYPES.length)], "toppings", toppings));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long start = System.nanoTime();
+        track(recorder, httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            boolean ok = error == null && response.statusCode() == 201;
+            if (ok) {
+                Integer orderId = readOrderId(response.body());
+                if (orderId != null) {
+                    placedOrderIds.add(orderId);
+                }
+            }
+            recorder.record(System.nanoTime() - start, ok);
+        }));
+    }
+
+    private void pollOrder(LatencyRecorder recorder) {
+        if (placedOrderIds.isEmpty()) {
+            return;
+        }
+        Integer orderId = placedOrderIds.get(ThreadLocalRandom.current().nextInt(placedOrderIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/orders/" + orderId)).GET().build();
+        long start = System.nanoTime();
+        track(recorder, httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) ->
+                recorder.record(System.nanoTime() - start, error == null && response.statusCode() == 200)));
+    }
+
+    private void runKitchen(AtomicBoolean running) {
+        while (running.get()) {
+            Phase current = phase;
+            LatencyRecorder inProgress = current.next;
+            try {
+                long start = System.nanoTime();
+                HttpResponse<String> response = httpClient.send(
+                        HttpRequest.newBuilder(uri("/api/orders")).GET().build(), HttpResponse.BodyHandlers.ofString());
+                current.next.record(System.nanoTime() - start, response.statusCode() == 200 || response.statusCode() == 404);
+                Integer orderId = response.statusCode() == 200 ? readOrderId(response.body()) : null;
+                if (orderId == null) {
+                    Thread.sleep(200);
+                    continue;
+                }
+                inProgress = current.update;
+                start = System.nanoTime();
+                HttpResponse<Void> updated = httpClient.send(HttpRequest.newBuilder(uri("/api/orders/" + orderId))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"ready\"}"))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                current.update.record(System.nanoTime() - start, updated.statusCode() == 200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                inProgress.record(0, false);
+            }
+        }
+    }
+
+    private Integer readOrderId(String body) {
+        try {
+            JsonNode orderId = objectMapper.readTree(body).get("orderId");
+            return orderId != null ? orderId.asInt() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Recorders of one phase of the run; requests keep the phase they started in, so those of the warm-up
+     * never reach the measured recorders.
+     */
+    private static final class Phase {
+
+        private final LatencyRecorder place = new LatencyRecorder("place");
+        private final LatencyRecorder poll = new LatencyRecorder("poll");
+        private final LatencyRecorder next = new LatencyRecorder("next");
+        private final LatencyRecorder update = new LatencyRecorder("update");
+
+        private List<LatencyRecorder> recorders() {
+            return List.of(place, poll, next, update);
+        }
+    }
+
+    /**
+     * Collects the latencies and failures of one operation and derives its throughput and percentiles.
+     */
+    private static final class LatencyRecorder {
+
+        private final String operation;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private int started;
+
+        private LatencyRecorder(String operation) {
+            this.operation = operation;
+        }
+
+        synchronized void started() {
+            started++;
+        }
+
+        /**
+         * Counts the asynchronous requests that were started but never completed as failures.
+         */
+        synchronized void recordAbandoned() {
+            if (started > count + errors) {
+                errors += started - (count + errors);
+            }
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        synchronized String report(int durationSeconds) {
+            return String.format(Locale.ROOT, "%-6s requests=%d errors=%d throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    operation, count + errors, errors, (count + errors) / (double) durationSeconds,
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+        }
+
+        synchronized void checkErrorRate(List<String> violations) {
+            int total = count + errors;
+            if (total > 0 && errors / (double) total > MAX_ERROR_RATE) {
+                violations.add(operation + ": error rate " + errors + "/" + total + " exceeds " + MAX_ERROR_RATE);
+            }
+        }
+
+        /**
+         * Flags a p99 latency above the baseline by more than the relative tolerance plus a fixed slack,
+         * the slack keeping scheduling jitter from failing operations whose baseline is only a few milliseconds.
+         */
+        synchronized void checkP99(double baselineMillis, List<String> violations) {
+            double allowed = baselineMillis * (1 + P99_TOLERANCE) + P99_SLACK_MILLIS;
+            double p99 = percentileMillis(99);
+            if (p99 > allowed) {
+                violations.add(String.format(Locale.ROOT, "%s: p99 %.1fms regressed over the baseline %.1fms (allowed %.1fms)",
+                        operation, p99, baselineMillis, allowed));
+            }
+        }
+
+        synchronized double percentileMillis(int percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = Math.min(count - 1, (int) Math.ceil(percentile / 100.0 * count) - 1);
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
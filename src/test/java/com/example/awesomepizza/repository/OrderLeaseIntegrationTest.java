@@ -0,0 +1,164 @@
+package com.example.awesomepizza.repository;
+
+import com.example.awesomepizza.models.Order;
+import com.example.awesomepizza.service.OrderLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lease queries of {@link OrderRepository}, run against H2 in MySQL compatibility mode with two
+ * {@link OrderLeaseService} instances standing in for two application nodes sharing the same database.
+ * Tests run outside a test-managed transaction so that every repository call commits, as it does in production.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderLeaseIntegrationTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+    private OrderLeaseService nodeA;
+    private OrderLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new OrderLeaseService(orderRepository, "node-a", 30, 1800);
+        nodeB = new OrderLeaseService(orderRepository, "node-b", 30, 1800);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+    }
+
+    /**
+     * Verifies two nodes looking for work at the same time are handed different pending orders,
+     * and that an order already handed out is not offered again by either node.
+     */
+    @Test
+    void claimNextPendingOrder_TwoNodes_ClaimDifferentOrders() {
+        Order first = savePendingOrder();
+        Order second = savePendingOrder();
+
+        Order claimedByA = nodeA.claimNextPendingOrder();
+        Order claimedByB = nodeB.claimNextPendingOrder();
+
+        assertEquals(first.getOrderId(), claimedByA.getOrderId());
+        assertEquals("node-a", claimedByA.getLeaseOwner());
+        assertNotNull(claimedByA.getLeaseExpiresAt());
+        assertNotNull(claimedByA.getLeaseAcquiredAt());
+        assertEquals(second.getOrderId(), claimedByB.getOrderId());
+        assertEquals("node-b", claimedByB.getLeaseOwner());
+        assertNull(nodeA.claimNextPendingOrder());
+        assertNull(nodeB.claimNextPendingOrder());
+    }
+
+    /**
+     * Verifies two kitchens routed to the same node are handed different pending orders.
+     */
+    @Test
+    void claimNextPendingOrder_SameNodeTwice_ClaimsDifferentOrders() {
+        Order first = savePendingOrder();
+        Order second = savePendingOrder();
+
+        Order firstClaim = nodeA.claimNextPendingOrder();
+        Order secondClaim = nodeA.claimNextPendingOrder();
+
+        assertEquals(first.getOrderId(), firstClaim.getOrderId());
+        assertEquals(second.getOrderId(), secondClaim.getOrderId());
+        assertNull(nodeA.claimNextPendingOrder());
+    }
+
+    /**
+     * Verifies the conditional update refuses a lease on an order held under a live lease, by another node or
+     * by the same one, and refuses orders that are no longer pending.
+     */
+    @Test
+    void acquireLease_LiveLease_ReturnsZero() {
+        Order order = savePendingOrder();
+
+        assertEquals(1, orderRepository.acquireLease(order.getOrderId(), "node-a", 30));
+        assertEquals(0, orderRepository.acquireLease(order.getOrderId(), "node-b", 30));
+        assertEquals(0, orderRepository.acquireLease(order.getOrderId(), "node-a", 30));
+
+        order = orderRepository.findByOrderId(order.getOrderId()).orElseThrow();
+        order.setStatus("ready");
+        order.setLeaseOwner(null);
+        order.setLeaseExpiresAt(null);
+        orderRepository.save(order);
+        assertEquals(0, orderRepository.acquireLease(order.getOrderId(), "node-a", 30));
+    }
+
+    /**
+     * Verifies an order whose lease expired, e.g. because its node died and stopped renewing it,
+     * is reclaimed by another node, while a renewed lease is kept.
+     */
+    @Test
+    void claimNextPendingOrder_ExpiredLease_ReclaimedByOtherNode() throws InterruptedException {
+        OrderLeaseService shortLivedNode = new OrderLeaseService(orderRepository, "node-a", 1, 1800);
+        Order order = savePendingOrder();
+
+        assertEquals(order.getOrderId(), shortLivedNode.claimNextPendingOrder().getOrderId());
+        assertNull(nodeB.claimNextPendingOrder());
+
+        Thread.sleep(1_500);
+
+        Order reclaimed = nodeB.claimNextPendingOrder();
+        assertNotNull(reclaimed);
+        assertEquals(order.getOrderId(), reclaimed.getOrderId());
+        assertEquals("node-b", reclaimed.getLeaseOwner());
+        assertEquals(0, orderRepository.acquireLease(order.getOrderId(), "node-a", 1));
+    }
+
+    /**
+     * Verifies the heartbeat keeps a lease alive beyond its initial duration.
+     */
+    @Test
+    void renewLeases_LiveNode_KeepsItsOrder() throws InterruptedException {
+        OrderLeaseService shortLivedNode = new OrderLeaseService(orderRepository, "node-a", 1, 1800);
+        Order order = savePendingOrder();
+        shortLivedNode.claimNextPendingOrder();
+
+        OrderLeaseService renewingNode = new OrderLeaseService(orderRepository, "node-a", 30, 1800);
+        renewingNode.renewLeases();
+        Thread.sleep(1_500);
+
+        assertNull(nodeB.claimNextPendingOrder());
+        assertEquals("node-a", orderRepository.findByOrderId(order.getOrderId()).orElseThrow().getLeaseOwner());
+    }
+
+    /**
+     * Verifies the heartbeat stops renewing a lease once the order has been held for the maximum hold time,
+     * so an order whose kitchen never reported back is dispatched again.
+     */
+    @Test
+    void renewLeases_MaxHoldTimeElapsed_OrderDispatchedAgain() throws InterruptedException {
+        OrderLeaseService shortHoldNode = new OrderLeaseService(orderRepository, "node-a", 1, 1);
+        Order order = savePendingOrder();
+        shortHoldNode.claimNextPendingOrder();
+
+        Thread.sleep(1_500);
+
+        assertEquals(0, orderRepository.renewLeases("node-a", 30, 1));
+        Order reclaimed = nodeB.claimNextPendingOrder();
+        assertNotNull(reclaimed);
+        assertEquals(order.getOrderId(), reclaimed.getOrderId());
+    }
+
+    private Order savePendingOrder() {
+        Order order = new Order();
+        order.setPizzaType("Margherita");
+        order.setStatus("pending");
+        return orderRepository.save(order);
+    }
+}
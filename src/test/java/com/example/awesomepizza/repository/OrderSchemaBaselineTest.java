@@ -0,0 +1,79 @@
+package com.example.awesomepizza.repository;
+
+import com.example.awesomepizza.models.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the upgrade of a database whose schema was generated by Hibernate with {@code ddl-auto=update}
+ * before Flyway was introduced. The legacy schema is created on a dedicated H2 database (MySQL compatibility
+ * mode) before the context starts; Flyway must baseline it at V1, apply the later migrations, and leave a schema
+ * that Hibernate validates and that keeps the existing orders.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class OrderSchemaBaselineTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:awesome_pizza_legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orders (order_id INT NOT NULL AUTO_INCREMENT, pizza_type VARCHAR(255), "
+                    + "status VARCHAR(255), PRIMARY KEY (order_id))");
+            statement.execute("CREATE TABLE order_toppings (order_topping_id INT NOT NULL AUTO_INCREMENT, "
+                    + "order_id INT NOT NULL, topping_name VARCHAR(255) NOT NULL, PRIMARY KEY (order_topping_id))");
+            statement.execute("ALTER TABLE order_toppings ADD CONSTRAINT fk_legacy_order FOREIGN KEY (order_id) "
+                    + "REFERENCES orders (order_id) ON DELETE CASCADE");
+            statement.execute("INSERT INTO orders (pizza_type, status) VALUES ('Margherita', 'pending')");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    /**
+     * Verifies the legacy schema is baselined at V1 and only the later migrations are applied.
+     */
+    @Test
+    void migrate_LegacySchema_BaselinedAndUpgraded() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE version IS NOT NULL AND success = TRUE ORDER BY installed_rank", String.class);
+
+        assertEquals(List.of("1", "2", "3", "4"), versions);
+        assertEquals("BASELINE", jdbcTemplate.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class));
+    }
+
+    /**
+     * Verifies orders created before the upgrade are kept and can be leased through the new columns.
+     */
+    @Test
+    void migrate_LegacySchema_KeepsExistingOrders() {
+        Order order = orderRepository.findFirstByStatusPending().orElseThrow();
+
+        assertEquals("Margherita", order.getPizzaType());
+        assertNull(order.getLeaseOwner());
+        assertEquals(1, orderRepository.acquireLease(order.getOrderId(), "node-a", 30));
+    }
+}
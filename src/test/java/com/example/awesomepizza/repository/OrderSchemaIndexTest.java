@@ -0,0 +1,120 @@
+package com.example.awesomepizza.repository;
+
+import com.example.awesomepizza.models.Order;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the Flyway-managed schema, run against H2 in MySQL compatibility mode.
+ * Loading the context validates the JPA mapping against the migrated tables, and the query plans of the
+ * access paths used by {@link OrderRepository} are checked to go through the dedicated indexes rather than
+ * a table scan, so their cost stays logarithmic as the tables grow. The plans are those of the SQL statements
+ * Hibernate generates for the repository calls, recorded by a {@link StatementInspector}. The number of seeded
+ * orders can be raised with the {@code awesomepizza.schema-test.rows} system property.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.awesomepizza.repository.OrderSchemaIndexTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class OrderSchemaIndexTest {
+
+    private static final int ROWS = Integer.getInteger("awesomepizza.schema-test.rows", 20_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"Margherita", i % 100 == 0 ? "pending" : "ready"});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO orders (pizza_type, status) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO orders (pizza_type, status) VALUES (?, ?)", batch);
+        }
+    }
+
+    /**
+     * Verifies the lookup of the oldest pending order is resolved through the (status, order_id) index,
+     * so only pending rows are read.
+     */
+    @Test
+    void findFirstByStatusPending_UsesStatusOrderIdIndex() {
+        String plan = explainGeneratedQuery(() -> orderRepository.findFirstByStatusPending());
+
+        assertTrue(plan.contains("idx_orders_status_order_id"), plan);
+    }
+
+    /**
+     * Verifies the lookup of the oldest claimable pending order is resolved through the (status, order_id) index,
+     * so only pending rows are read.
+     */
+    @Test
+    void findFirstClaimablePending_UsesStatusOrderIdIndex() {
+        String plan = explainGeneratedQuery(() -> orderRepository.findFirstClaimablePending());
+
+        assertTrue(plan.contains("idx_orders_status_order_id"), plan);
+    }
+
+    /**
+     * Verifies the toppings of an order are loaded through the index backing the order_id foreign key.
+     */
+    @Test
+    void orderToppingsQuery_UsesOrderIdIndex() {
+        Order order = orderRepository.findFirstByStatusPending().orElseThrow();
+
+        String plan = explainGeneratedQuery(() -> order.getOrderToppings().size());
+
+        assertTrue(plan.contains("idx_order_toppings_order_id"), plan);
+    }
+
+    /**
+     * Runs the given repository call and explains the single SQL statement Hibernate issued for it.
+     * The parameters of these statements are identifiers and row limits, so each one is bound to 1.
+     */
+    private String explainGeneratedQuery(Runnable repositoryCall) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        repositoryCall.run();
+        assertEquals(1, RecordingStatementInspector.STATEMENTS.size(), RecordingStatementInspector.STATEMENTS::toString);
+
+        String sql = RecordingStatementInspector.STATEMENTS.get(0);
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(parameters, 1);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters)).toLowerCase();
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares, leaving it unchanged.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.awesomepizza.service;
+
+import com.example.awesomepizza.response.DemandCount;
+import com.example.awesomepizza.response.DemandForecastResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DemandForecastService} validating how placed orders are counted per pizza type and topping
+ * and how the requested window selects them, using a clock that the tests move forward.
+ */
+class DemandForecastServiceTest {
+
+    private MovableClock clock;
+    private DemandForecastService demandForecastService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MovableClock(Instant.parse("2026-10-19T19:00:00Z"));
+        demandForecastService = new DemandForecastService(60, 64, clock);
+    }
+
+    /**
+     * Test the recordOrder and getForecast methods to ensure pizza types and toppings are ranked by frequency.
+     */
+    @Test
+    void getForecast_RecordedOrders_ReturnsRankedCounts() {
+        demandForecastService.recordOrder("Margherita", List.of("Cheese", "Tomato"));
+        demandForecastService.recordOrder("Margherita", List.of("Cheese"));
+        demandForecastService.recordOrder("Diavola", List.of("Cheese", "Salami"));
+
+        DemandForecastResponse forecast = demandForecastService.getForecast(15, 2);
+
+        assertEquals(15, forecast.getWindowMinutes());
+        assertCounts(forecast.getPizzaTypes(), "Margherita", 2, "Diavola", 1);
+        assertEquals(2, forecast.getToppings().size());
+        assertEquals("Cheese", forecast.getToppings().get(0).getName());
+        assertEquals(3, forecast.getToppings().get(0).getCount());
+    }
+
+    /**
+     * Test the getForecast method to ensure orders older than the window are excluded from the 15-minute
+     * window but still included in the 60-minute one.
+     */
+    @Test
+    void getForecast_OrdersOlderThanWindow_OnlyInLongerWindow() {
+        demandForecastService.recordOrder("Diavola", List.of("Salami"));
+        clock.advance(Duration.ofMinutes(30));
+        demandForecastService.recordOrder("Margherita", List.of("Basil"));
+
+        DemandForecastResponse lastQuarter = demandForecastService.getForecast(15, 10);
+        DemandForecastResponse lastHour = demandForecastService.getForecast(60, 10);
+
+        assertCounts(lastQuarter.getPizzaTypes(), "Margherita", 1);
+        assertCounts(lastHour.getPizzaTypes(), "Diavola", 1, "Margherita", 1);
+
+        clock.advance(Duration.ofMinutes(31));
+
+        assertCounts(demandForecastService.getForecast(60, 10).getPizzaTypes(), "Margherita", 1);
+    }
+
+    /**
+     * Test the getForecast method to ensure windows outside 1 to the configured maximum are rejected.
+     */
+    @Test
+    void getForecast_WindowOutOfRange_ReturnsNull() {
+        assertNull(demandForecastService.getForecast(61, 10));
+        assertNull(demandForecastService.getForecast(0, 10));
+    }
+
+    /**
+     * Test the getForecast method to ensure a limit that is not positive is rejected.
+     */
+    @Test
+    void getForecast_NonPositiveLimit_ReturnsNull() {
+        assertNull(demandForecastService.getForecast(15, 0));
+        assertNull(demandForecastService.getForecast(15, -1));
+    }
+
+    private static void assertCounts(List<DemandCount> counts, Object... expected) {
+        assertEquals(expected.length / 2, counts.size());
+        for (int i = 0; i < counts.size(); i++) {
+            DemandCount count = counts.get(i);
+            boolean matched = false;
+            for (int j = 0; j < expected.length; j += 2) {
+                matched |= expected[j].equals(count.getName()) && expected[j + 1].equals(count.getCount());
+            }
+            assertTrue(matched, count.getName() + "=" + count.getCount());
+        }
+    }
+
+    /**
+     * Clock returning a fixed instant that can be moved forward.
+     */
+    private static final class MovableClock extends Clock {
+
+        private Instant instant;
+
+        private MovableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
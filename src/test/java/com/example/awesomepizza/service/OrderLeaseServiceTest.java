@@ -0,0 +1,109 @@
+package com.example.awesomepizza.service;
+
+import com.example.awesomepizza.models.Order;
+import com.example.awesomepizza.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link OrderLeaseService} validating how pending orders are claimed and how leases are renewed,
+ * using a mocked {@link OrderRepository} to simulate competing nodes.
+ */
+class OrderLeaseServiceTest {
+
+    private static final String NODE_ID = "node-a";
+
+    @Mock
+    private OrderRepository orderRepository;
+    private OrderLeaseService orderLeaseService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        orderLeaseService = new OrderLeaseService(orderRepository, NODE_ID, 30, 1800);
+    }
+
+    /**
+     * Test the claimNextPendingOrder method when the lease is acquired on the first candidate.
+     * Verifies the order is reloaded after the lease is acquired.
+     */
+    @Test
+    void claimNextPendingOrder_LeaseAcquired_ReturnsLeasedOrder() {
+        Order leasedOrder = pendingOrder(1);
+        leasedOrder.setLeaseOwner(NODE_ID);
+
+        when(orderRepository.findFirstClaimablePending()).thenReturn(java.util.Optional.of(pendingOrder(1)));
+        when(orderRepository.acquireLease(1, NODE_ID, 30)).thenReturn(1);
+        when(orderRepository.findByOrderId(1)).thenReturn(java.util.Optional.of(leasedOrder));
+
+        Order claimedOrder = orderLeaseService.claimNextPendingOrder();
+
+        assertSame(leasedOrder, claimedOrder);
+        verify(orderRepository, times(1)).acquireLease(1, NODE_ID, 30);
+    }
+
+    /**
+     * Test the claimNextPendingOrder method when other nodes keep winning the race for the candidates.
+     * Verifies candidates are tried until one is leased, without an arbitrary attempt limit.
+     */
+    @Test
+    void claimNextPendingOrder_LeasesLostToOtherNodes_ClaimsNextCandidate() {
+        Order lastOrder = pendingOrder(7);
+
+        when(orderRepository.findFirstClaimablePending()).thenReturn(
+                java.util.Optional.of(pendingOrder(1)), java.util.Optional.of(pendingOrder(2)),
+                java.util.Optional.of(pendingOrder(3)), java.util.Optional.of(pendingOrder(4)),
+                java.util.Optional.of(pendingOrder(5)), java.util.Optional.of(pendingOrder(6)),
+                java.util.Optional.of(lastOrder));
+        when(orderRepository.acquireLease(any(), eq(NODE_ID), anyLong())).thenReturn(0);
+        when(orderRepository.acquireLease(7, NODE_ID, 30)).thenReturn(1);
+        when(orderRepository.findByOrderId(7)).thenReturn(java.util.Optional.of(lastOrder));
+
+        Order claimedOrder = orderLeaseService.claimNextPendingOrder();
+
+        assertNotNull(claimedOrder);
+        assertEquals(7, claimedOrder.getOrderId());
+        verify(orderRepository, times(7)).findFirstClaimablePending();
+    }
+
+    /**
+     * Test the claimNextPendingOrder method when no pending order can be claimed.
+     * Ensures null is returned and no lease is attempted.
+     */
+    @Test
+    void claimNextPendingOrder_NoClaimableOrder_ReturnsNull() {
+        when(orderRepository.findFirstClaimablePending()).thenReturn(java.util.Optional.empty());
+
+        Order claimedOrder = orderLeaseService.claimNextPendingOrder();
+
+        assertNull(claimedOrder);
+        verify(orderRepository, never()).acquireLease(any(), any(), anyLong());
+    }
+
+    /**
+     * Test the renewLeases method to ensure the heartbeat extends the leases owned by this node
+     * by the configured lease duration, up to the configured maximum hold time.
+     */
+    @Test
+    void renewLeases_ExtendsLeasesOwnedByThisNode() {
+        orderLeaseService.renewLeases();
+
+        verify(orderRepository, times(1)).renewLeases(NODE_ID, 30, 1800);
+    }
+
+    private static Order pendingOrder(Integer orderId) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setPizzaType("Margherita");
+        order.setStatus("pending");
+        return order;
+    }
+}
@@ -32,6 +32,10 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
     @Mock
     private OrderToppingRepository orderToppingRepository;
+    @Mock
+    private OrderLeaseService orderLeaseService;
+    @Mock
+    private DemandForecastService demandForecastService;
     @InjectMocks
     private OrderService orderService;
 
@@ -85,6 +89,7 @@ class OrderServiceTest {
         assertEquals(2, createdOrder.getOrderToppings().size());
         verify(orderToppingRepository, times(1)).saveAll(any());
         verify(orderRepository, times(2)).save(any(Order.class));
+        verify(demandForecastService, times(1)).recordOrder("Margherita", toppings);
 
     }
 
@@ -143,6 +148,9 @@ class OrderServiceTest {
         existingOrder.setOrderId(orderId);
         existingOrder.setPizzaType("Margherita");
         existingOrder.setStatus("pending");
+        existingOrder.setLeaseOwner("node-a");
+        existingOrder.setLeaseExpiresAt(java.time.LocalDateTime.now());
+        existingOrder.setLeaseAcquiredAt(java.time.LocalDateTime.now());
 
         when(orderRepository.findByOrderId(orderId)).thenReturn(java.util.Optional.of(existingOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(existingOrder);
@@ -151,6 +159,9 @@ class OrderServiceTest {
 
         assertTrue(statusUpdated);
         assertEquals("ready", existingOrder.getStatus());
+        assertNull(existingOrder.getLeaseOwner());
+        assertNull(existingOrder.getLeaseExpiresAt());
+        assertNull(existingOrder.getLeaseAcquiredAt());
 
         verify(orderRepository, times(1)).findByOrderId(orderId);
         verify(orderRepository, times(1)).save(any(Order.class));
@@ -176,7 +187,7 @@ class OrderServiceTest {
     }
 
     /**
-     * Test the getFirstPendingOrder method to verify it returns a pending order when one exists.
+     * Test the getFirstPendingOrder method to verify it returns the pending order leased by {@link OrderLeaseService}.
      */
     @Test
     void getFirstPendingOrder_PendingOrderExists_ReturnsOrder() {
@@ -185,14 +196,14 @@ class OrderServiceTest {
         pendingOrder.setPizzaType("Margherita");
         pendingOrder.setStatus("pending");
 
-        when(orderRepository.findFirstByStatusPending()).thenReturn(java.util.Optional.of(pendingOrder));
+        when(orderLeaseService.claimNextPendingOrder()).thenReturn(pendingOrder);
 
         Order foundOrder = orderService.getFirstPendingOrder();
 
         assertNotNull(foundOrder);
         assertEquals(pendingOrder, foundOrder);
 
-        verify(orderRepository, times(1)).findFirstByStatusPending();
+        verify(orderLeaseService, times(1)).claimNextPendingOrder();
     }
 
     /**
@@ -201,12 +212,12 @@ class OrderServiceTest {
      */
     @Test
     void getFirstPendingOrder_NoPendingOrder_ReturnsNull() {
-        when(orderRepository.findFirstByStatusPending()).thenReturn(java.util.Optional.empty());
+        when(orderLeaseService.claimNextPendingOrder()).thenReturn(null);
 
         Order foundOrder = orderService.getFirstPendingOrder();
 
         assertNull(foundOrder);
 
-        verify(orderRepository, times(1)).findFirstByStatusPending();
+        verify(orderLeaseService, times(1)).claimNextPendingOrder();
     }
 }